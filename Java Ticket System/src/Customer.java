@@ -15,6 +15,13 @@ public class Customer implements Comparable<Customer> {
     public static SortedLinkedList<Customer> sortedCustomers = new SortedLinkedList<>();
     private HashMap<Ticket, Integer> ticketsOwnedHashMap = new HashMap<>();
 
+    /**
+     * The possible results of trying to add a basket of tickets to a customer account.
+     */
+    public enum BasketResult {
+        ADDED, INVALID_QUANTITY, TOO_MANY_TICKET_TYPES
+    }
+
     /**
      * Creates a customer with specified First Name and Last Name.
      * @param firstName customer first name.
@@ -114,6 +121,63 @@ public class Customer implements Comparable<Customer> {
         }
     }
 
+    /**
+     * Checks that every quantity in a basket of tickets is > 0, and that adding the basket to the tickets the customer
+     * already owns won't take any ticket quantity, or their overall ticket quantity, past the largest int.
+     * @param basket (ticket types and quantities as inputted by the user)
+     * @return True if every quantity in the basket is valid, otherwise return false.
+     */
+    protected boolean isBasketQuantityValid(HashMap<Ticket, Integer> basket) {
+        try {
+            int totalQuantityAfterPurchase = overallCustomerTicketQuantity(ticketsOwnedHashMap);
+            for (Map.Entry<Ticket, Integer> entry : basket.entrySet()) {
+                if (entry.getValue() <= 0) {
+                    return false;
+                }
+                Math.addExact(ticketsOwnedHashMap.getOrDefault(entry.getKey(), 0), entry.getValue());
+                totalQuantityAfterPurchase = Math.addExact(totalQuantityAfterPurchase, entry.getValue());
+            }
+        } catch (ArithmeticException e) { // deal with ticket quantities too large to store.
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Determines if a customer is able to buy a whole basket of tickets in one go. The ticket types they already own
+     * combined with the new ticket types in the basket must not exceed 3.
+     * @param basket (ticket types and quantities as inputted by the user)
+     * @return True if the customer can buy the whole basket, otherwise return false.
+     */
+    protected boolean canCustomerBuyBasket(HashMap<Ticket, Integer> basket) {
+        int ticketTypesAfterPurchase = ticketsOwnedHashMap.size();
+        for (Ticket ticket : basket.keySet()) {
+            if (!ticketsOwnedHashMap.containsKey(ticket)) {
+                ticketTypesAfterPurchase++;
+            }
+        }
+        return ticketTypesAfterPurchase <= 3;
+    }
+
+    /**
+     * Adds every ticket in a basket to a customer account. The basket is checked as a whole first, so either all of the
+     * tickets are added or none of them are, and the account is never left half updated.
+     * @param basket (ticket types and quantities as inputted by the user)
+     * @return ADDED if the basket was added to the account, otherwise the reason none of it was added.
+     */
+    protected BasketResult addBasketToCustomerAccount(HashMap<Ticket, Integer> basket) {
+        if (!isBasketQuantityValid(basket)) {
+            return BasketResult.INVALID_QUANTITY;
+        }
+        if (!canCustomerBuyBasket(basket)) {
+            return BasketResult.TOO_MANY_TICKET_TYPES;
+        }
+        for (Map.Entry<Ticket, Integer> entry : basket.entrySet()) {
+            addTicketToCustomerAccount(entry.getKey(), entry.getValue());
+        }
+        return BasketResult.ADDED;
+    }
+
     /**
      * Checks if a customer is able to remove a quantity of tickets from their account, by checking if ticket is valid
      * and the ticket quantity they already own is >= to the quantity specified.
@@ -159,6 +223,19 @@ public class Customer implements Comparable<Customer> {
         }
     }
 
+    /**
+     * Calculates the cost of a basket of tickets the customer wants to buy, before any discount is applied.
+     * @param basket (ticket types and quantities as inputted by the user)
+     * @return the cost of all the tickets in the basket.
+     */
+    protected static double calcPriceOfBasketPurchased(HashMap<Ticket, Integer> basket) {
+        double basketPrice = 0;
+        for (Map.Entry<Ticket, Integer> entry : basket.entrySet()) {
+            basketPrice += entry.getKey().getPrice() * entry.getValue();
+        }
+        return basketPrice;
+    }
+
     /**
      * Calculates the overall quantity of tickets a customer has, across all ticket types.
      * @param ticketsOwnedHashMap (a customers ticket account)
@@ -1,11 +1,14 @@
 import java.io.*;
+import java.util.HashMap;
 import java.util.InputMismatchException;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Scanner;
 
 /**
- * Main Program that contains the main method, a method for reading in the file, a method for creating the menu, adding tickets
- * and removing tickets.
+ * Main Program that contains the main method, a method for reading in the file, a method for creating the menu, adding tickets,
+ * adding a basket of tickets and removing tickets.
  */
 public class MainProgram {
     /**
@@ -49,6 +52,10 @@ public class MainProgram {
                             // update customer data when they buy new tickets.
                             addTicketToCustomer(input, outputFile);
                             break;
+                        case "b":
+                            // update customer data when they buy several ticket types in one basket.
+                            addBasketToCustomer(input, outputFile);
+                            break;
                         case "r":
                             // update customer data when they remove tickets.
                             removeTicketFromCustomer(input);
@@ -58,7 +65,7 @@ public class MainProgram {
                             System.out.println("Goodbye! See you soon.");
                             break;
                         default:
-                            System.out.println("Invalid option! Please select t, c, a ,r or f");
+                            System.out.println("Invalid option! Please select t, c, a, b, r or f");
                             break;
                     }
                 } catch (InputMismatchException e) { // deal with when user enters something that isn't a letter.
@@ -76,12 +83,13 @@ public class MainProgram {
     }
 
     /**
-     * Designs the menu with 5 options as specified, including one to exit the program.
+     * Designs the menu with 6 options as specified, including one to exit the program.
      */
     private static void printMenu() {
         System.out.println("t: Display all ticket information");
         System.out.println("c: Display all customer information");
         System.out.println("a: Add new tickets to a customer account");
+        System.out.println("b: Add a basket of several ticket types to a customer account");
         System.out.println("r: Delete tickets from a customer account");
         System.out.println("f: Exit the system");
         System.out.println("Please note that entering customer and ticket names is case-sensitive.");
@@ -199,23 +207,7 @@ public class MainProgram {
                             System.out.println("You have added a quantity of: " + quantityCustomerWants + ", of " + relevantTicketWeNeed + " each.");
                             double ticketPrice = Customer.calcPriceOfTicketsPurchased(ticketChosenName, quantityCustomerWants);
                             System.out.println("The original cost of purchasing these tickets: £" + String.format("%.2f", ticketPrice));
-                            // Print letter to outfile if discount not available.
-                            int totalCustomerTicketQuantity = customer.overallCustomerTicketQuantity(customer.getTicketsOwnedHashMap());
-                            if (totalCustomerTicketQuantity < 6) {
-                                int ticketsLeftToBuy = 6 - totalCustomerTicketQuantity;
-                                outputFile.println(("No discount is available yet, please purchase " + ticketsLeftToBuy
-                                        + " more tickets for a discount. You aren't far away!"));
-                                outputFile.flush();
-                            } else { // Calculate discount available and print out the result to menu.
-                                double discountedPrice = ticketPrice * Ticket.calculateCustomerTicketDiscount(totalCustomerTicketQuantity);
-                                if (discountedPrice != ticketPrice) {
-                                    System.out.println("Discounted Price for you to pay: £" + String.format("%.2f", discountedPrice));
-                                } else {
-                                    System.out.println("No discount applied yet.");
-                                }
-                                System.out.println("Congratulations, you have received a discount of " +
-                                        (100 - Ticket.calculateCustomerTicketDiscount(totalCustomerTicketQuantity) * 100) + "% for your tickets.");
-                            }
+                            printDiscountOrLetter(customer, ticketPrice, outputFile);
                         } else { // deal with invalid ticket quantity entry of <=0
                             System.out.println("Invalid ticket quantity, please try again.");
                         }
@@ -233,6 +225,104 @@ public class MainProgram {
         }
     }
 
+    /**
+     * Method that takes input from the user for one customer and a basket of several ticket types and quantities, then
+     * adds the whole basket to their account in one go. The 3 ticket type limit and the quantities are checked once for
+     * the whole basket, and the price, discount and letter are calculated once after it has been added.
+     * Print statements and exceptions if unsuccessful.
+     * @param input (Scanner)
+     * @param outputFile (Printwriter)
+     */
+    public static void addBasketToCustomer(Scanner input, PrintWriter outputFile) {
+        System.out.println("Please enter the first name and surname of the customer wishing to buy a basket of tickets: ");
+        String customerName = input.nextLine();
+        // check customer name entered is valid customer
+        Customer customer = Customer.getRelevantCustomer(customerName);
+        if (customer == null) {
+            System.out.println("Sorry, the customer you entered isn't found in this system. You're welcome to try again.");
+            return;
+        }
+        // build up the basket in the order entered, combining quantities if the same ticket is entered more than once.
+        HashMap<Ticket, Integer> basket = new LinkedHashMap<>();
+        while (true) {
+            System.out.println("Please enter the name of the next ticket for the basket, or press enter to finish: ");
+            String ticketChosenName = input.nextLine();
+            if (ticketChosenName.isEmpty()) {
+                break;
+            }
+            if (!Ticket.ticketHashMap.containsKey(ticketChosenName)) { // check ticket name entered is valid ticket.
+                System.out.println("Apologies, the ticket entered isn't found in our program.");
+                return;
+            }
+            Ticket relevantTicketWeNeed = Ticket.getUserReleventTicket(ticketChosenName);
+            System.out.println("Please enter the quantity of tickets you wish to buy:");
+            try {
+                int quantityCustomerWants = input.nextInt();
+                input.nextLine(); // consume the rest of the line before asking for the next ticket.
+                if (quantityCustomerWants <= 0) { // deal with invalid ticket quantity entry of <=0
+                    System.out.println("Invalid ticket quantity, please try again.");
+                    return;
+                }
+                basket.merge(relevantTicketWeNeed, quantityCustomerWants, Math::addExact);
+            } catch (InputMismatchException e) { // deal with incorrect ticket quantity data type entry
+                System.out.println("Please enter a whole number for the quantity.");
+                return;
+            } catch (ArithmeticException e) { // deal with combined ticket quantity being too large to store
+                System.out.println("Invalid ticket quantity, please try again.");
+                return;
+            }
+        }
+        if (basket.isEmpty()) {
+            System.out.println("The basket is empty, no tickets have been added.");
+            return;
+        }
+        // add the whole basket, or nothing at all if any quantity is invalid or it would take the customer over the
+        // max 3 different tickets.
+        switch (customer.addBasketToCustomerAccount(basket)) {
+            case INVALID_QUANTITY:
+                System.out.println("Invalid ticket quantity, no tickets from the basket have been added.");
+                return;
+            case TOO_MANY_TICKET_TYPES:
+                System.out.println("Customer can only hold the max 3 different tickets, no tickets from the basket have been added.");
+                return;
+            default:
+                break;
+        }
+        for (Map.Entry<Ticket, Integer> entry : basket.entrySet()) {
+            System.out.println("You have added a quantity of: " + entry.getValue() + ", of " + entry.getKey() + " each.");
+        }
+        double basketPrice = Customer.calcPriceOfBasketPurchased(basket);
+        System.out.println("The original cost of purchasing these tickets: £" + String.format("%.2f", basketPrice));
+        printDiscountOrLetter(customer, basketPrice, outputFile);
+    }
+
+    /**
+     * Prints a letter to the output file if the customer doesn't have enough tickets for a discount yet, otherwise
+     * calculates the discount on the tickets just purchased and prints out the result to the menu.
+     * @param customer (the customer who has just purchased the tickets)
+     * @param ticketPrice (original cost of the tickets just purchased)
+     * @param outputFile (Printwriter)
+     */
+    private static void printDiscountOrLetter(Customer customer, double ticketPrice, PrintWriter outputFile) {
+        // Print letter to outfile if discount not available.
+        int totalCustomerTicketQuantity = customer.overallCustomerTicketQuantity(customer.getTicketsOwnedHashMap());
+        if (totalCustomerTicketQuantity < 6) {
+            int ticketsLeftToBuy = 6 - totalCustomerTicketQuantity;
+            outputFile.println(("No discount is available yet, please purchase " + ticketsLeftToBuy
+                    + " more tickets for a discount. You aren't far away!"));
+            outputFile.flush();
+        } else { // Calculate discount available and print out the result to menu.
+            double discount = Ticket.calculateCustomerTicketDiscount(totalCustomerTicketQuantity);
+            double discountedPrice = ticketPrice * discount;
+            if (discountedPrice != ticketPrice) {
+                System.out.println("Discounted Price for you to pay: £" + String.format("%.2f", discountedPrice));
+            } else {
+                System.out.println("No discount applied yet.");
+            }
+            System.out.println("Congratulations, you have received a discount of " + (100 - discount * 100) + "% for your tickets.");
+        }
+    }
+
     /**
      * Method that takes input from a scanner, and uses to remove tickets from a customer account as specified.
      * Print statements and exceptions if unsuccessful.